@@ -8,7 +8,7 @@ import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
-import java.awt.RenderingHints;
+import java.util.logging.Logger;
 
 /**
  * Основная панель игры, отвечающая за отрисовку и игровой цикл.
@@ -16,6 +16,8 @@ import java.awt.RenderingHints;
  */
 public class GamePanel extends JPanel implements Runnable {
 
+    private static final Logger LOGGER = Logger.getLogger(GamePanel.class.getName());
+
     // Настройки экрана
     /** Исходный размер тайла в пикселях (до масштабирования) */
     private final int originalTileSize = 16;
@@ -104,7 +106,8 @@ public class GamePanel extends JPanel implements Runnable {
             }
 
             if (timer >= NANOS_PER_SECOND) {
-                System.out.println("FPS: " + drawCount);
+                // Строка собирается раз в секунду, а не каждый кадр
+                LOGGER.info("FPS: " + drawCount);
                 drawCount = 0;
                 timer = 0;
             }
@@ -120,20 +123,24 @@ public class GamePanel extends JPanel implements Runnable {
 
     /**
      * Отрисовывает текущее состояние игры на экран.
+     * Контекст принадлежит Swing и переиспользуется им, поэтому здесь он не освобождается.
      *
      * @param g графический контекст
      */
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
+        drawFrame((Graphics2D) g);
+    }
 
-        Graphics2D g2 = (Graphics2D) g;
-
-        g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
-
+    /**
+     * Отрисовывает один кадр в переданный контекст.
+     * Не создаёт объектов, поэтому может вызываться и без окна, например, для отрисовки в {@link java.awt.image.BufferedImage}.
+     *
+     * @param g2 графический контекст для отрисовки
+     */
+    public void drawFrame(Graphics2D g2) {
         tileManager.draw(g2);
         player.draw(g2);
-
-        g2.dispose();
     }
 }
@@ -0,0 +1,49 @@
+package ru.cooper;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Вспомогательные методы для подготовки изображений к отрисовке.
+ */
+public final class ImageUtils {
+
+    private ImageUtils() {
+    }
+
+    /**
+     * Загружает изображение из ресурсов и масштабирует его до квадрата заданного размера.
+     *
+     * @param owner класс, относительно которого ищется ресурс
+     * @param path  путь к изображению в ресурсах
+     * @param size  сторона результата в пикселях
+     * @return масштабированное изображение
+     * @throws IOException если изображение не удалось прочитать
+     */
+    public static BufferedImage loadScaled(Class<?> owner, String path, int size) throws IOException {
+        BufferedImage image = ImageIO.read(Objects.requireNonNull(owner.getResourceAsStream(path)));
+        return scaleImage(image, size, size);
+    }
+
+    /**
+     * Масштабирует изображение до заданного размера методом ближайшего соседа
+     * в формат {@link BufferedImage#TYPE_INT_ARGB_PRE}. Вызывается один раз при загрузке ресурсов.
+     *
+     * @param original исходное изображение
+     * @param width    ширина результата в пикселях
+     * @param height   высота результата в пикселях
+     * @return масштабированное изображение
+     */
+    public static BufferedImage scaleImage(BufferedImage original, int width, int height) {
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g2 = scaled.createGraphics();
+        g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        g2.drawImage(original, 0, 0, width, height, null);
+        g2.dispose();
+        return scaled;
+    }
+}
@@ -0,0 +1,12 @@
+package ru.cooper.entity;
+
+/**
+ * Направление взгляда игрового объекта.
+ * Используется вместо строк, чтобы выбор спрайта в каждом кадре не требовал сравнения строк.
+ */
+public enum Direction {
+    UP,
+    DOWN,
+    LEFT,
+    RIGHT
+}
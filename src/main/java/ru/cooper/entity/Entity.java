@@ -25,7 +25,7 @@ public class Entity {
     public int spriteNum = 1;
 
     /** Текущая сторона взгляда персонажа */
-    public String direction;
+    public Direction direction = Direction.DOWN;
 
     /** Спрайты движения вниз */
     public BufferedImage orc_down_left, orc_down_right, orc_down_stay;
@@ -1,13 +1,12 @@
 package ru.cooper.entity;
 
 import ru.cooper.GamePanel;
+import ru.cooper.ImageUtils;
 import ru.cooper.KeyHandler;
 
-import javax.imageio.ImageIO;
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
-import java.util.Objects;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -55,7 +54,7 @@ public class Player extends Entity {
         worldX = gp.tileSize * 23;
         worldY = gp.tileSize * 21;
         speed = 4;
-        direction = "down";
+        direction = Direction.DOWN;
     }
 
     /**
@@ -64,32 +63,22 @@ public class Player extends Entity {
     public void getPlayerImage() {
         try {
             // Спрайты движения вниз
-            orc_down_left = ImageIO.read(Objects.requireNonNull(
-                    getClass().getResourceAsStream("/player/orc_down_left.png")));
-            orc_down_right = ImageIO.read(Objects.requireNonNull(
-                    getClass().getResourceAsStream("/player/orc_down_right.png")));
-            orc_down_stay = ImageIO.read(Objects.requireNonNull(
-                    getClass().getResourceAsStream("/player/orc_down_stay.png")));
+            orc_down_left = ImageUtils.loadScaled(getClass(), "/player/orc_down_left.png", gp.tileSize);
+            orc_down_right = ImageUtils.loadScaled(getClass(), "/player/orc_down_right.png", gp.tileSize);
+            orc_down_stay = ImageUtils.loadScaled(getClass(), "/player/orc_down_stay.png", gp.tileSize);
 
             // Спрайты движения влево
-            orc_left_left = ImageIO.read(Objects.requireNonNull(
-                    getClass().getResourceAsStream("/player/orc_left_left.png")));
-            orc_left_right = ImageIO.read(Objects.requireNonNull(
-                    getClass().getResourceAsStream("/player/orc_left_right.png")));
+            orc_left_left = ImageUtils.loadScaled(getClass(), "/player/orc_left_left.png", gp.tileSize);
+            orc_left_right = ImageUtils.loadScaled(getClass(), "/player/orc_left_right.png", gp.tileSize);
 
             // Спрайты движения вправо
-            orc_right_left = ImageIO.read(Objects.requireNonNull(
-                    getClass().getResourceAsStream("/player/orc_right_left.png")));
-            orc_right_right = ImageIO.read(Objects.requireNonNull(
-                    getClass().getResourceAsStream("/player/orc_right_right.png")));
+            orc_right_left = ImageUtils.loadScaled(getClass(), "/player/orc_right_left.png", gp.tileSize);
+            orc_right_right = ImageUtils.loadScaled(getClass(), "/player/orc_right_right.png", gp.tileSize);
 
             // Спрайты движения вверх
-            orc_up_left = ImageIO.read(Objects.requireNonNull(
-                    getClass().getResourceAsStream("/player/orc_up_left.png")));
-            orc_up_right = ImageIO.read(Objects.requireNonNull(
-                    getClass().getResourceAsStream("/player/orc_up_right.png")));
-            orc_up_stay = ImageIO.read(Objects.requireNonNull(
-                    getClass().getResourceAsStream("/player/orc_up_stay.png")));
+            orc_up_left = ImageUtils.loadScaled(getClass(), "/player/orc_up_left.png", gp.tileSize);
+            orc_up_right = ImageUtils.loadScaled(getClass(), "/player/orc_up_right.png", gp.tileSize);
+            orc_up_stay = ImageUtils.loadScaled(getClass(), "/player/orc_up_stay.png", gp.tileSize);
         } catch (IOException e) {
             LOGGER.log(Level.SEVERE, "Ошибка загрузки спрайтов игрока", e);
         }
@@ -103,19 +92,19 @@ public class Player extends Entity {
 
         if (keyH.upPressed) {
             worldY -= speed;
-            direction = "up";
+            direction = Direction.UP;
             moving = true;
         } else if (keyH.downPressed) {
             worldY += speed;
-            direction = "down";
+            direction = Direction.DOWN;
             moving = true;
         } else if (keyH.leftPressed) {
             worldX -= speed;
-            direction = "left";
+            direction = Direction.LEFT;
             moving = true;
         } else if (keyH.rightPressed) {
             worldX += speed;
-            direction = "right";
+            direction = Direction.RIGHT;
             moving = true;
         }
 
@@ -136,23 +125,21 @@ public class Player extends Entity {
      * @param g2 графический контекст для отрисовки
      */
     public void draw(Graphics2D g2) {
-        // УЛУЧШЕНИЕ: Более читаемый выбор спрайта с использованием switch expression
         BufferedImage image = switch (direction) {
-            case "up" -> switch (spriteNum) {
+            case UP -> switch (spriteNum) {
                 case 1 -> orc_up_left;
                 case 2 -> orc_up_right;
                 default -> orc_up_stay;
             };
-            case "down" -> switch (spriteNum) {
+            case DOWN -> switch (spriteNum) {
                 case 1 -> orc_down_left;
                 case 2 -> orc_down_right;
                 default -> orc_down_stay;
             };
-            case "left" -> (spriteNum == 1) ? orc_left_left : orc_left_right;
-            case "right" -> (spriteNum == 1) ? orc_right_left : orc_right_right;
-            default -> orc_down_stay; // Спрайт по умолчанию
+            case LEFT -> (spriteNum == 1) ? orc_left_left : orc_left_right;
+            case RIGHT -> (spriteNum == 1) ? orc_right_left : orc_right_right;
         };
 
-        g2.drawImage(image, screenX, screenY, gp.tileSize, gp.tileSize, null);
+        g2.drawImage(image, screenX, screenY, null);
     }
 }
@@ -1,14 +1,13 @@
 package ru.cooper.tile;
 
 import ru.cooper.GamePanel;
+import ru.cooper.ImageUtils;
 
-import javax.imageio.ImageIO;
 import java.awt.Graphics2D;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.util.Objects;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -84,28 +83,22 @@ public class TileManager {
     public void getTileImage() {
         try {
             tile[0] = new Tile();
-            tile[0].image = ImageIO.read(Objects.requireNonNull(
-                    getClass().getResourceAsStream(TILE_PATH_WALK)));
+            tile[0].image = ImageUtils.loadScaled(getClass(), TILE_PATH_WALK, gp.tileSize);
 
             tile[1] = new Tile();
-            tile[1].image = ImageIO.read(Objects.requireNonNull(
-                    getClass().getResourceAsStream(TILE_PATH_BORDER)));
+            tile[1].image = ImageUtils.loadScaled(getClass(), TILE_PATH_BORDER, gp.tileSize);
 
             tile[2] = new Tile();
-            tile[2].image = ImageIO.read(Objects.requireNonNull(
-                    getClass().getResourceAsStream(TILE_PATH_WATER)));
+            tile[2].image = ImageUtils.loadScaled(getClass(), TILE_PATH_WATER, gp.tileSize);
 
             tile[3] = new Tile();
-            tile[3].image = ImageIO.read(Objects.requireNonNull(
-                    getClass().getResourceAsStream(TILE_PATH_EARTH)));
+            tile[3].image = ImageUtils.loadScaled(getClass(), TILE_PATH_EARTH, gp.tileSize);
 
             tile[4] = new Tile();
-            tile[4].image = ImageIO.read(Objects.requireNonNull(
-                    getClass().getResourceAsStream(TILE_PATH_TREE)));
+            tile[4].image = ImageUtils.loadScaled(getClass(), TILE_PATH_TREE, gp.tileSize);
 
             tile[5] = new Tile();
-            tile[5].image = ImageIO.read(Objects.requireNonNull(
-                    getClass().getResourceAsStream(TILE_PATH_SAND)));
+            tile[5].image = ImageUtils.loadScaled(getClass(), TILE_PATH_SAND, gp.tileSize);
         } catch (IOException e) {
             LOGGER.log(Level.SEVERE, "Ошибка загрузки текстур тайлов", e);
         }
@@ -179,7 +172,7 @@ public class TileManager {
                 if (screenX + gp.tileSize >= 0 && screenX <= gp.screenWidth &&
                         screenY + gp.tileSize >= 0 && screenY <= gp.screenHeight) {
 
-                    g2.drawImage(tile[tileNum].image, screenX, screenY, gp.tileSize, gp.tileSize, null);
+                    g2.drawImage(tile[tileNum].image, screenX, screenY, null);
                 }
             }
         }
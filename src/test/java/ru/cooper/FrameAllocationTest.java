@@ -0,0 +1,101 @@
+package ru.cooper;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.Graphics2D;
+import java.awt.event.KeyEvent;
+import java.awt.event.KeyListener;
+import java.awt.image.BufferedImage;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Проверяет, что кадр игры ({@link GamePanel#update()} + {@link GamePanel#drawFrame(Graphics2D)})
+ * в установившемся режиме не создаёт объектов в куче.
+ * Запускается в headless-режиме (см. настройки surefire в pom.xml).
+ */
+class FrameAllocationTest {
+
+    /** Кадров на прогрев JIT до начала замера (кратно полному циклу движения) */
+    private static final int WARMUP_FRAMES = 6_000;
+
+    /** Кадров в замеряемом окне (кратно полному циклу движения) */
+    private static final int MEASURED_FRAMES = 1_500;
+
+    /**
+     * Число попыток замера. JIT/OSR может изредка выделить память во время окна,
+     * поэтому достаточно одного окна без выделений; регрессия в самом кадре
+     * проявится в каждой попытке.
+     */
+    private static final int ATTEMPTS = 5;
+
+    /** Кадров на каждую фазу движения */
+    private static final int FRAMES_PER_PHASE = 30;
+
+    /** Клавиши фаз движения: вверх, вправо, вниз, влево; пятая фаза — стоим */
+    private static final int[] PHASE_KEYS = {KeyEvent.VK_W, KeyEvent.VK_D, KeyEvent.VK_S, KeyEvent.VK_A};
+
+    @Test
+    void steadyStateFrameDoesNotAllocate() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threadMx =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMx.isThreadAllocatedMemorySupported());
+        threadMx.setThreadAllocatedMemoryEnabled(true);
+
+        GamePanel gp = new GamePanel();
+        KeyListener keys = gp.getKeyListeners()[0];
+        KeyEvent[] pressed = new KeyEvent[PHASE_KEYS.length];
+        KeyEvent[] released = new KeyEvent[PHASE_KEYS.length];
+        for (int i = 0; i < PHASE_KEYS.length; i++) {
+            pressed[i] = new KeyEvent(gp, KeyEvent.KEY_PRESSED, 0, 0, PHASE_KEYS[i], KeyEvent.CHAR_UNDEFINED);
+            released[i] = new KeyEvent(gp, KeyEvent.KEY_RELEASED, 0, 0, PHASE_KEYS[i], KeyEvent.CHAR_UNDEFINED);
+        }
+
+        BufferedImage screen = new BufferedImage(gp.screenWidth, gp.screenHeight, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = screen.createGraphics();
+
+        runFrames(gp, g2, keys, pressed, released, WARMUP_FRAMES);
+
+        long allocated = Long.MAX_VALUE;
+        for (int attempt = 0; attempt < ATTEMPTS && allocated != 0; attempt++) {
+            // Пустое окно: собственные накладные расходы вызова MXBean
+            long emptyStart = threadMx.getCurrentThreadAllocatedBytes();
+            long overhead = threadMx.getCurrentThreadAllocatedBytes() - emptyStart;
+
+            long start = threadMx.getCurrentThreadAllocatedBytes();
+            runFrames(gp, g2, keys, pressed, released, MEASURED_FRAMES);
+            allocated = threadMx.getCurrentThreadAllocatedBytes() - start - overhead;
+        }
+
+        g2.dispose();
+
+        assertEquals(0, allocated, "Байт выделено за " + MEASURED_FRAMES + " кадров");
+    }
+
+    /**
+     * Прогоняет кадры, циклически двигая игрока вверх, вправо, вниз, влево и оставляя его стоять,
+     * чтобы задействовать все направления и кадры анимации. Цикл возвращает игрока в исходную точку.
+     */
+    private static void runFrames(GamePanel gp, Graphics2D g2, KeyListener keys,
+                                  KeyEvent[] pressed, KeyEvent[] released, int frames) {
+        int phaseCount = PHASE_KEYS.length + 1;
+        for (int frame = 0; frame < frames; frame++) {
+            if (frame % FRAMES_PER_PHASE == 0) {
+                int phase = (frame / FRAMES_PER_PHASE) % phaseCount;
+                int previous = (phase + phaseCount - 1) % phaseCount;
+                if (previous < PHASE_KEYS.length) {
+                    keys.keyReleased(released[previous]);
+                }
+                if (phase < PHASE_KEYS.length) {
+                    keys.keyPressed(pressed[phase]);
+                }
+            }
+
+            gp.update();
+            gp.drawFrame(g2);
+        }
+    }
+}